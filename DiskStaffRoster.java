@@ -0,0 +1,551 @@
+import java.io.IOException;               // For file mapping failures
+import java.io.RandomAccessFile;          // To open the roster file for read/write
+import java.io.UncheckedIOException;      // To surface I/O errors through the List interface
+import java.nio.BufferOverflowException;  // Raised when a record does not fit in its slot
+import java.nio.ByteBuffer;               // Scratch buffer for encoding records
+import java.nio.MappedByteBuffer;         // Memory-mapped regions of the roster file
+import java.nio.channels.FileChannel;     // To map the roster file into memory
+import java.nio.channels.FileLock;        // Keeps other copies of the application out of the file
+import java.nio.channels.OverlappingFileLockException; // Raised when this JVM already holds the lock
+import java.nio.charset.StandardCharsets; // For encoding text fields
+import java.util.AbstractList;            // Base class so the GUI can treat this as a List
+import java.util.ArrayList;               // Holds the mapped file segments
+import java.util.ConcurrentModificationException; // Raised when the roster changes during iteration
+import java.util.HashMap;                 // Slot to encoded record for unsaved changes
+import java.util.Iterator;                // For read-only traversal of the roster
+import java.util.LinkedHashMap;           // Ordered map used as the LRU cache
+import java.util.Map;                     // Entry type used by the cache and pending writes
+import java.util.NoSuchElementException;  // Raised when iterating past the last record
+
+/**
+ * DiskStaffRoster stores staff records in a memory-mapped file instead of on the heap.
+ *
+ * The file starts with a header and a fixed table of hash buckets keyed by vacancy
+ * number, followed by one fixed-size slot per record in the order it was added. Each
+ * slot links to the previous record in the same bucket, so lookups by vacancy number
+ * are answered from the file. Only the most recently used StaffHire objects are kept
+ * on the heap, in a size-bounded LRU cache; changed objects are written back to the
+ * file when evicted or when flush() is called.
+ *
+ * Changes made to a staff object must be reported with set(index, staff) so the
+ * cached copy is marked dirty. Objects returned by iterator() that are not cached
+ * are read-only copies.
+ */
+public class DiskStaffRoster extends AbstractList<StaffHire>
+{
+    // Size of a single record slot in bytes (a 4-byte bucket link plus the record itself)
+    public static final int RECORD_SIZE = 512;
+    private static final int RECORD_DATA_SIZE = RECORD_SIZE - 4;
+
+    // Bytes left for text fields once the fixed-size fields of the largest record type are stored
+    public static final int MAX_TEXT_SIZE = RECORD_DATA_SIZE - 33;
+
+    // Header fields identifying a roster file
+    private static final int MAGIC = 0x53544652; // "STFR"
+    private static final int VERSION = 1;
+    private static final int HEADER_FIELDS_SIZE = 16;
+
+    // Hash buckets holding (slot + 1) of the newest record in each bucket, 0 when empty
+    private static final int BUCKET_BITS = 16;
+    private static final int BUCKET_COUNT = 1 << BUCKET_BITS;
+    private static final int INDEX_OFFSET = 64;
+    private static final long DATA_OFFSET = INDEX_OFFSET + 4L * BUCKET_COUNT;
+
+    // Number of record slots mapped at a time (1 MiB per segment)
+    private static final int SEGMENT_SLOTS = 2048;
+    private static final long SEGMENT_SIZE = (long) RECORD_SIZE * SEGMENT_SLOTS;
+
+    // Record type markers stored in the first data byte of a slot
+    private static final byte FULL_TIME = 1;
+    private static final byte PART_TIME = 2;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final ArrayList<MappedByteBuffer> segments = new ArrayList<>();
+
+    // Encoded records whose cached object has changes not yet written to the file
+    private final HashMap<Integer, byte[]> pendingWrites = new HashMap<>();
+
+    // Recently used records, keyed by slot. get() and set() move an entry to the end,
+    // so the first entry is the least recently used and is evicted first.
+    private final LinkedHashMap<Integer, StaffHire> cache;
+
+    private int size;
+
+    /**
+     * Opens (or creates) a roster file, keeping at most cacheSize staff objects on the heap.
+     * Fails if an existing file is not a roster file written by this class, or if
+     * another program already has it open.
+     */
+    public DiskStaffRoster(String fileName, int cacheSize) throws IOException
+    {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1.");
+        }
+        file = new RandomAccessFile(fileName, "rw");
+        channel = file.getChannel();
+
+        try {
+            lockFile(fileName);
+            boolean newFile = channel.size() == 0;
+            if (!newFile) {
+                checkHeader(fileName);
+            }
+            // Mapping may extend the file, so only do it once the header is known to be valid
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, DATA_OFFSET);
+            if (newFile) {
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putInt(8, 0);
+                header.putInt(12, BUCKET_COUNT);
+            }
+            size = header.getInt(8);
+        } catch (IOException ex) {
+            channel.close();
+            file.close();
+            throw ex;
+        }
+
+        cache = new LinkedHashMap<Integer, StaffHire>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, StaffHire> eldest)
+            {
+                if (size() <= cacheSize) {
+                    return false;
+                }
+                // Write back unsaved changes before the object leaves the heap
+                byte[] pending = pendingWrites.get(eldest.getKey());
+                if (pending != null) {
+                    try {
+                        writeRecord(eldest.getKey(), pending);
+                    } catch (RuntimeException ex) {
+                        // Keep the entry cached and dirty; flush() will report the failure
+                        return false;
+                    }
+                    pendingWrites.remove(eldest.getKey());
+                }
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the record at the given position, loading it into the cache if needed.
+     */
+    @Override
+    public StaffHire get(int index)
+    {
+        checkIndex(index);
+        StaffHire staff = cache.remove(index);
+        if (staff == null) {
+            staff = readRecord(index);
+        }
+        cache.put(index, staff);
+        return staff;
+    }
+
+    /**
+     * Replaces the record at the given position and marks it for write-back.
+     * Also used to report changes made to an object returned by get().
+     * If the record no longer fits in a slot, the change is discarded and the
+     * stored record is kept. Returns the last accepted version of the record,
+     * as a separate copy from the one passed in.
+     */
+    @Override
+    public StaffHire set(int index, StaffHire staff)
+    {
+        checkIndex(index);
+        int storedVacancy = readVacancyNumber(index);
+        if (staff.getVacancyNumber() != storedVacancy) {
+            throw new IllegalArgumentException("Vacancy number of a stored record cannot be changed.");
+        }
+        byte[] pending = pendingWrites.get(index);
+        StaffHire previous = pending != null ? decodeRecord(ByteBuffer.wrap(pending), index) : readRecord(index);
+
+        byte[] record;
+        try {
+            record = encodeRecord(staff);
+        } catch (IllegalArgumentException ex) {
+            // The cached object may already hold the rejected change, so drop it and
+            // keep the last accepted version, saving it first if it was still pending
+            if (pending != null) {
+                writeRecord(index, pending);
+                pendingWrites.remove(index);
+            }
+            cache.remove(index);
+            throw ex;
+        }
+        pendingWrites.put(index, record);
+        cache.remove(index);
+        cache.put(index, staff);
+        return previous;
+    }
+
+    /**
+     * Appends a record to the end of the file and links it into the vacancy index.
+     * The object is also cached as recently used.
+     */
+    @Override
+    public boolean add(StaffHire staff)
+    {
+        byte[] record = encodeRecord(staff);
+        int slot = size;
+        writeRecord(slot, record);
+
+        int bucket = bucketOf(staff.getVacancyNumber());
+        segmentFor(slot).putInt(offsetOf(slot), header.getInt(bucketOffset(bucket)));
+        header.putInt(bucketOffset(bucket), slot + 1);
+
+        size++;
+        header.putInt(8, size);
+        modCount++;
+        cache.put(slot, staff);
+        return true;
+    }
+
+    /**
+     * Returns the position of the first record with the given vacancy number that is
+     * of the given type, or -1 if there is none.
+     */
+    public int indexOfVacancy(int vacancyNumber, Class<? extends StaffHire> type)
+    {
+        int found = -1;
+        // Buckets link newest to oldest, so the last match is the first record added
+        for (int slot = firstInBucket(vacancyNumber); slot >= 0; slot = nextInBucket(slot)) {
+            if (readVacancyNumber(slot) == vacancyNumber && type.isAssignableFrom(recordClass(slot))) {
+                found = slot;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the position of the most recently added record with the given vacancy
+     * number, or -1 if there is none.
+     */
+    public int lastIndexOfVacancy(int vacancyNumber)
+    {
+        for (int slot = firstInBucket(vacancyNumber); slot >= 0; slot = nextInBucket(slot)) {
+            if (readVacancyNumber(slot) == vacancyNumber) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Traverses all records without filling the cache, so a full scan (search, summary,
+     * export) does not push recently used objects out. Cached objects are returned as-is
+     * so unsaved changes are visible.
+     */
+    @Override
+    public Iterator<StaffHire> iterator()
+    {
+        return new Iterator<StaffHire>() {
+            private int next = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext()
+            {
+                return next < size;
+            }
+
+            @Override
+            public StaffHire next()
+            {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                // Insertion-ordered lookup, so a scan does not change which entry is evicted next
+                StaffHire cached = cache.get(next);
+                StaffHire staff = cached != null ? cached : readRecord(next);
+                next++;
+                return staff;
+            }
+        };
+    }
+
+    /**
+     * Writes all unsaved changes to the roster file and forces them to disk.
+     * Every pending record is attempted; the first failure is thrown afterwards.
+     */
+    public void flush()
+    {
+        RuntimeException failure = null;
+        Iterator<Map.Entry<Integer, byte[]>> pending = pendingWrites.entrySet().iterator();
+        while (pending.hasNext()) {
+            Map.Entry<Integer, byte[]> entry = pending.next();
+            try {
+                writeRecord(entry.getKey(), entry.getValue());
+                pending.remove();
+            } catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        header.force();
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Flushes pending changes and closes the roster file. The file is closed even
+     * if some changes could not be saved.
+     */
+    public void close() throws IOException
+    {
+        try {
+            flush();
+        } finally {
+            channel.close();
+            file.close();
+        }
+    }
+
+    /**
+     * Takes an exclusive lock on the roster file so two running copies of the
+     * application cannot append to it or relink its index at the same time.
+     */
+    private void lockFile(String fileName) throws IOException
+    {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            lock = null;
+        }
+        if (lock == null) {
+            throw new IOException(fileName + " is already in use by another copy of the application.");
+        }
+    }
+
+    /**
+     * Checks that an existing file starts with a roster header, without modifying it.
+     */
+    private void checkHeader(String fileName) throws IOException
+    {
+        if (channel.size() < DATA_OFFSET) {
+            throw new IOException(fileName + " is not a staff roster file.");
+        }
+        ByteBuffer fields = ByteBuffer.allocate(HEADER_FIELDS_SIZE);
+        while (fields.hasRemaining() && channel.read(fields, fields.position()) >= 0) {
+            // Keep reading until the header fields are filled
+        }
+        fields.flip();
+        if (fields.remaining() < HEADER_FIELDS_SIZE || fields.getInt() != MAGIC) {
+            throw new IOException(fileName + " is not a staff roster file.");
+        }
+        int version = fields.getInt();
+        int count = fields.getInt();
+        int buckets = fields.getInt();
+        if (version != VERSION || buckets != BUCKET_COUNT) {
+            throw new IOException(fileName + " uses an unsupported roster format (version " + version + ").");
+        }
+        if (count < 0 || DATA_OFFSET + (long) count * RECORD_SIZE > channel.size()) {
+            throw new IOException(fileName + " is truncated or corrupt.");
+        }
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static int bucketOf(int vacancyNumber)
+    {
+        return (vacancyNumber * 0x9E3779B9) >>> (32 - BUCKET_BITS);
+    }
+
+    private static int bucketOffset(int bucket)
+    {
+        return INDEX_OFFSET + 4 * bucket;
+    }
+
+    private int firstInBucket(int vacancyNumber)
+    {
+        return header.getInt(bucketOffset(bucketOf(vacancyNumber))) - 1;
+    }
+
+    private int nextInBucket(int slot)
+    {
+        return segmentFor(slot).getInt(offsetOf(slot)) - 1;
+    }
+
+    /**
+     * Returns the mapped segment holding the given slot, mapping more of the file
+     * if the slot lies beyond the segments mapped so far.
+     */
+    private MappedByteBuffer segmentFor(int slot)
+    {
+        int segmentNumber = slot / SEGMENT_SLOTS;
+        try {
+            while (segments.size() <= segmentNumber) {
+                segments.add(channel.map(FileChannel.MapMode.READ_WRITE,
+                        DATA_OFFSET + segments.size() * SEGMENT_SIZE, SEGMENT_SIZE));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not map roster file", ex);
+        }
+        return segments.get(segmentNumber);
+    }
+
+    // Position of a slot within its segment
+    private static int offsetOf(int slot)
+    {
+        return (slot % SEGMENT_SLOTS) * RECORD_SIZE;
+    }
+
+    /**
+     * Returns a buffer positioned at the record data of the given slot (after its bucket link).
+     */
+    private ByteBuffer recordBuffer(int slot)
+    {
+        ByteBuffer buffer = segmentFor(slot).duplicate();
+        buffer.position(offsetOf(slot) + 4);
+        buffer.limit(offsetOf(slot) + RECORD_SIZE);
+        return buffer;
+    }
+
+    private int readVacancyNumber(int slot)
+    {
+        return segmentFor(slot).getInt(offsetOf(slot) + 5);
+    }
+
+    /**
+     * Returns the class of the record stored in a slot, rejecting unknown type bytes.
+     */
+    private Class<? extends StaffHire> recordClass(int slot)
+    {
+        return classOf(segmentFor(slot).get(offsetOf(slot) + 4), slot);
+    }
+
+    private static Class<? extends StaffHire> classOf(byte type, int slot)
+    {
+        if (type == FULL_TIME) {
+            return FullTimeStaffHire.class;
+        }
+        if (type == PART_TIME) {
+            return PartTimeStaffHire.class;
+        }
+        throw new IllegalStateException("Roster file is corrupt: unknown record type " + type + " at position " + slot + ".");
+    }
+
+    /**
+     * Decodes the staff object stored in a slot.
+     */
+    private StaffHire readRecord(int slot)
+    {
+        return decodeRecord(recordBuffer(slot), slot);
+    }
+
+    /**
+     * Decodes a staff object from encoded record bytes belonging to the given slot.
+     */
+    private static StaffHire decodeRecord(ByteBuffer buffer, int slot)
+    {
+        Class<? extends StaffHire> type = classOf(buffer.get(), slot);
+        int vacancyNumber = buffer.getInt();
+        String designation = readString(buffer);
+        String jobType = readString(buffer);
+        String staffName = readString(buffer);
+        String joiningDate = readString(buffer);
+        String qualification = readString(buffer);
+        String appointedBy = readString(buffer);
+        boolean joined = buffer.get() != 0;
+
+        if (type == FullTimeStaffHire.class) {
+            double salary = buffer.getDouble();
+            int weeklyHours = buffer.getInt();
+            return new FullTimeStaffHire(vacancyNumber, designation, jobType, staffName, joiningDate,
+                    qualification, appointedBy, joined, salary, weeklyHours);
+        }
+
+        int workingHour = buffer.getInt();
+        double wagesPerHour = buffer.getDouble();
+        String shifts = readString(buffer);
+        boolean terminated = buffer.get() != 0;
+        PartTimeStaffHire partTime = new PartTimeStaffHire(vacancyNumber, designation, jobType, staffName,
+                joiningDate, qualification, appointedBy, joined, workingHour, wagesPerHour, shifts);
+        if (terminated) {
+            partTime.terminate();
+        }
+        return partTime;
+    }
+
+    /**
+     * Encodes a staff object into the bytes stored in its slot.
+     * Fails if the record does not fit in a slot.
+     */
+    private static byte[] encodeRecord(StaffHire staff)
+    {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_DATA_SIZE);
+        try {
+            record.put(staff instanceof FullTimeStaffHire ? FULL_TIME : PART_TIME);
+            record.putInt(staff.getVacancyNumber());
+            writeString(record, staff.getDesignation());
+            writeString(record, staff.getJobType());
+            writeString(record, staff.getStaffName());
+            writeString(record, staff.getJoiningDate());
+            writeString(record, staff.getQualification());
+            writeString(record, staff.getAppointedBy());
+            record.put((byte) (staff.getJoined() ? 1 : 0));
+
+            if (staff instanceof FullTimeStaffHire) {
+                FullTimeStaffHire fullTime = (FullTimeStaffHire) staff;
+                record.putDouble(fullTime.getSalary());
+                record.putInt(fullTime.getWeeklyHours());
+            } else {
+                PartTimeStaffHire partTime = (PartTimeStaffHire) staff;
+                record.putInt(partTime.getWorkingHour());
+                record.putDouble(partTime.getWagesPerHour());
+                writeString(record, partTime.getShifts());
+                record.put((byte) (partTime.isTerminated() ? 1 : 0));
+            }
+        } catch (BufferOverflowException ex) {
+            throw new IllegalArgumentException("Staff record for vacancy " + staff.getVacancyNumber()
+                    + " is too large to store. Text fields are limited to "
+                    + MAX_TEXT_SIZE + " bytes in total.");
+        }
+        return record.array();
+    }
+
+    // Copies an encoded record into a slot, leaving its bucket link untouched
+    private void writeRecord(int slot, byte[] record)
+    {
+        recordBuffer(slot).put(record);
+    }
+
+    private static String readString(ByteBuffer buffer)
+    {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(ByteBuffer buffer, String value)
+    {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+}
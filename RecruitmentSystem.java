@@ -4,6 +4,7 @@ import java.awt.event.*;                  // For button click handling
 import java.io.PrintWriter;               // For exporting data to text file
 import java.io.IOException;               // For handling file write exceptions
 import java.util.ArrayList;               // To store staff objects dynamically
+import java.util.List;                    // Common type for in-memory and disk-backed rosters
 
 /**
  * RecruitmentSystem is a GUI-based staff management application.
@@ -14,7 +15,14 @@ import java.util.ArrayList;               // To store staff objects dynamically
 public class RecruitmentSystem extends JFrame implements ActionListener
 {
     // Stores all staff entries (both full-time and part-time)
-    private ArrayList<StaffHire> staffList = new ArrayList<>();
+    private List<StaffHire> staffList;
+
+    // Roster file and heap cache size for disk-backed storage (e.g. -Dstaff.roster.file=roster.dat)
+    private static final String ROSTER_FILE = System.getProperty("staff.roster.file");
+    private static final int ROSTER_CACHE_SIZE = Integer.getInteger("staff.roster.cacheSize", 1000);
+
+    // Most records shown by "Show Summary" for a disk-backed roster, so the dialog text stays bounded
+    private static final int SUMMARY_LIMIT = 1000;
     
     // Form input fields (textboxes) for staff data
     private JTextField vacancyNumberField, designationField, jobTypeField, staffNameField, joiningDateField,
@@ -44,6 +52,8 @@ public class RecruitmentSystem extends JFrame implements ActionListener
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLayout(new BorderLayout());
 
+        staffList = createStaffList();
+
         // Panel to hold all input fields and buttons
         JPanel mainPanel = new JPanel(new GridBagLayout());
         GridBagConstraints gbc = new GridBagConstraints();
@@ -143,6 +153,38 @@ public class RecruitmentSystem extends JFrame implements ActionListener
         setVisible(true);
     }
 
+    /**
+     * Creates the staff roster. Records are kept in memory unless a roster file is
+     * configured, in which case they are stored on disk with only recently used
+     * entries cached on the heap.
+     */
+    private List<StaffHire> createStaffList()
+    {
+        if (ROSTER_FILE == null) {
+            return new ArrayList<>();
+        }
+        try {
+            DiskStaffRoster roster = new DiskStaffRoster(ROSTER_FILE, ROSTER_CACHE_SIZE);
+
+            // Save cached changes before the application exits
+            addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowClosing(WindowEvent e)
+                {
+                    try {
+                        roster.close();
+                    } catch (IOException | RuntimeException ex) {
+                        JOptionPane.showMessageDialog(RecruitmentSystem.this, "Could not save all roster changes: " + ex.getMessage());
+                    }
+                }
+            });
+            return roster;
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Could not open roster file, using memory only: " + ex.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
      /**
      * Validates that a required input field is not left empty.
      * Displays a message if the field is empty and returns true (error).
@@ -170,6 +212,15 @@ public class RecruitmentSystem extends JFrame implements ActionListener
      * Prevents duplication of staff entries with the same ID.
      */
     private boolean isVacancyNumberDuplicate(int vacancyNumber) {
+        if (staffList instanceof DiskStaffRoster) {
+            // Only the newest record for a vacancy number can still be active
+            int index = ((DiskStaffRoster) staffList).lastIndexOfVacancy(vacancyNumber);
+            if (index < 0) {
+                return false;
+            }
+            StaffHire staff = staffList.get(index);
+            return !(staff instanceof PartTimeStaffHire && ((PartTimeStaffHire) staff).isTerminated());
+        }
         for (StaffHire staff : staffList) {
             // If it's a terminated part-time staff, skip the check
             if (staff instanceof PartTimeStaffHire) {
@@ -184,6 +235,56 @@ public class RecruitmentSystem extends JFrame implements ActionListener
         return false;
     }
 
+    /**
+     * Finds the position of the first staff added with the given vacancy number and type.
+     * Uses the vacancy index when the roster is disk-backed, otherwise scans the list.
+     * Returns -1 if no matching staff exists.
+     */
+    private int findStaffIndex(int vacancyNumber, Class<? extends StaffHire> type)
+    {
+        if (staffList instanceof DiskStaffRoster) {
+            return ((DiskStaffRoster) staffList).indexOfVacancy(vacancyNumber, type);
+        }
+        for (int i = 0; i < staffList.size(); i++) {
+            StaffHire staff = staffList.get(i);
+            if (staff.getVacancyNumber() == vacancyNumber && type.isInstance(staff)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a staff record to the roster.
+     * Displays a message and returns false if the roster cannot store it
+     * (e.g. text fields too long for a disk-backed roster).
+     */
+    private boolean addStaff(StaffHire staff)
+    {
+        try {
+            staffList.add(staff);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Records a change made to the staff at the given position so disk-backed rosters save it.
+     * Displays a message and returns false if the change cannot be stored.
+     */
+    private boolean updateStaff(int index, StaffHire staff)
+    {
+        try {
+            staffList.set(index, staff);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Applies styling for dark or light mode across all components.
      * Dynamically adjusts colors for background, text, and buttons.
@@ -231,9 +332,12 @@ public class RecruitmentSystem extends JFrame implements ActionListener
     /**
      * Opens a scrollable dialog displaying all staff records in formatted form.
      * This acts as a quick summary viewer for all entries in the system.
+     * For a disk-backed roster only the first SUMMARY_LIMIT records are shown.
      */
     private void showSummary() {
         StringBuilder sb = new StringBuilder();
+        boolean limited = staffList instanceof DiskStaffRoster;
+        int shown = 0;
         for (StaffHire s : staffList) {
             // Skip terminated part-time staff
             if (s instanceof PartTimeStaffHire) {
@@ -241,7 +345,13 @@ public class RecruitmentSystem extends JFrame implements ActionListener
                     continue;
                 }
             }
+            if (limited && shown == SUMMARY_LIMIT) {
+                sb.append("Only the first ").append(SUMMARY_LIMIT)
+                  .append(" staff are shown. Use Export All Staff for the full list.\n");
+                break;
+            }
             sb.append(s.display()).append("\n--------------------------\n");
+            shown++;
         }
     
         JTextArea area = new JTextArea(sb.toString());
@@ -298,7 +408,7 @@ public class RecruitmentSystem extends JFrame implements ActionListener
                         Double.parseDouble(salaryField.getText()),
                         Integer.parseInt(weeklyHoursField.getText())
                 );
-                staffList.add(fullTime);
+                if (!addStaff(fullTime)) return;
                 JOptionPane.showMessageDialog(this, "Full Time Staff added successfully.");
             
              // === ADD PART-TIME STAFF ===
@@ -338,7 +448,7 @@ public class RecruitmentSystem extends JFrame implements ActionListener
                         Double.parseDouble(wagesPerHourField.getText()),
                         shiftsField.getText()
                 );
-                staffList.add(partTime);
+                if (!addStaff(partTime)) return;
                 JOptionPane.showMessageDialog(this, "Part Time Staff added successfully.");
             
             // === SET SALARY FOR FULL-TIME ===
@@ -348,12 +458,13 @@ public class RecruitmentSystem extends JFrame implements ActionListener
                 if (confirm != JOptionPane.YES_OPTION) return;
 
                 int vacancy = Integer.parseInt(vacancyNumberField.getText());
-                for (StaffHire s : staffList) {
-                    if (s.getVacancyNumber() == vacancy && s instanceof FullTimeStaffHire) {
-                        ((FullTimeStaffHire) s).setSalary(Double.parseDouble(salaryField.getText()));
-                        JOptionPane.showMessageDialog(this, "Salary updated.");
-                        return;
-                    }
+                int index = findStaffIndex(vacancy, FullTimeStaffHire.class);
+                if (index >= 0) {
+                    FullTimeStaffHire s = (FullTimeStaffHire) staffList.get(index);
+                    s.setSalary(Double.parseDouble(salaryField.getText()));
+                    if (!updateStaff(index, s)) return;
+                    JOptionPane.showMessageDialog(this, "Salary updated.");
+                    return;
                 }
                 JOptionPane.showMessageDialog(this, "No matching Full Time Staff found.");
             
@@ -364,12 +475,13 @@ public class RecruitmentSystem extends JFrame implements ActionListener
                 if (confirm != JOptionPane.YES_OPTION) return;
 
                 int vacancy = Integer.parseInt(vacancyNumberField.getText());
-                for (StaffHire s : staffList) {
-                    if (s.getVacancyNumber() == vacancy && s instanceof PartTimeStaffHire) {
-                        ((PartTimeStaffHire) s).setShifts(shiftsField.getText());
-                        JOptionPane.showMessageDialog(this, "Shifts updated.");
-                        return;
-                    }
+                int index = findStaffIndex(vacancy, PartTimeStaffHire.class);
+                if (index >= 0) {
+                    PartTimeStaffHire s = (PartTimeStaffHire) staffList.get(index);
+                    s.setShifts(shiftsField.getText());
+                    if (!updateStaff(index, s)) return;
+                    JOptionPane.showMessageDialog(this, "Shifts updated.");
+                    return;
                 }
                 JOptionPane.showMessageDialog(this, "No matching Part Time Staff found.");
             
@@ -380,12 +492,13 @@ public class RecruitmentSystem extends JFrame implements ActionListener
                 if (confirm != JOptionPane.YES_OPTION) return;
 
                 int vacancy = Integer.parseInt(vacancyNumberField.getText());
-                for (StaffHire s : staffList) {
-                    if (s.getVacancyNumber() == vacancy && s instanceof PartTimeStaffHire) {
-                        ((PartTimeStaffHire) s).terminate();
-                        JOptionPane.showMessageDialog(this, "Staff terminated.");
-                        return;
-                    }
+                int index = findStaffIndex(vacancy, PartTimeStaffHire.class);
+                if (index >= 0) {
+                    PartTimeStaffHire s = (PartTimeStaffHire) staffList.get(index);
+                    s.terminate();
+                    if (!updateStaff(index, s)) return;
+                    JOptionPane.showMessageDialog(this, "Staff terminated.");
+                    return;
                 }
                 JOptionPane.showMessageDialog(this, "No matching Part Time Staff found.");
             
@@ -1,4 +1,4 @@
-java/**
+/**
  * Represents a general staff hire.
  * Stores common attributes shared between full-time and part-time staff.
  */